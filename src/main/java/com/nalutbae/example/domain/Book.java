@@ -41,6 +41,7 @@ public class Book {
         this.author = author;
     }
 
+    @NotBlank
     public String getIsbn() {
         return isbn;
     }
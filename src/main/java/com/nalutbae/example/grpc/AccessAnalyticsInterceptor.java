@@ -0,0 +1,30 @@
+package com.nalutbae.example.grpc;
+
+import com.nalutbae.example.service.AccessAnalyticsService;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.quarkus.grpc.GlobalInterceptor;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * gRPC counterpart of {@code AccessAnalyticsFilter}, counting every call as a {@code service.method} endpoint.
+ */
+@GlobalInterceptor
+@ApplicationScoped
+public class AccessAnalyticsInterceptor implements ServerInterceptor {
+    private final AccessAnalyticsService accessAnalyticsService;
+
+    public AccessAnalyticsInterceptor(AccessAnalyticsService accessAnalyticsService) {
+        this.accessAnalyticsService = accessAnalyticsService;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        MethodDescriptor<ReqT, RespT> method = call.getMethodDescriptor();
+        this.accessAnalyticsService.recordEndpoint(method.getServiceName(), method.getBareMethodName());
+        return next.startCall(call, headers);
+    }
+}
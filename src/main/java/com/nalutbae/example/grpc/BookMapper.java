@@ -0,0 +1,52 @@
+package com.nalutbae.example.grpc;
+
+/**
+ * Converts between the domain {@link com.nalutbae.example.domain.Book} and the protobuf {@link Book}.
+ * Protobuf has no null, so a missing string is an empty one and a missing genre is {@link Genre#GENRE_UNSPECIFIED}.
+ */
+final class BookMapper {
+    private static final String GENRE_PREFIX = "GENRE_";
+
+    private BookMapper() {
+    }
+
+    static Book toProto(com.nalutbae.example.domain.Book book) {
+        return Book.newBuilder()
+                .setTitle(nullToEmpty(book.getTitle()))
+                .setAuthor(nullToEmpty(book.getAuthor()))
+                .setIsbn(nullToEmpty(book.getIsbn()))
+                .setGenre(toProto(book.getGenre()))
+                .setPublisher(nullToEmpty(book.getPublisher()))
+                .setYearPublished(book.getYearPublished())
+                .build();
+    }
+
+    static com.nalutbae.example.domain.Book toDomain(Book book) {
+        return new com.nalutbae.example.domain.Book(
+                emptyToNull(book.getTitle()),
+                emptyToNull(book.getAuthor()),
+                emptyToNull(book.getIsbn()),
+                toDomain(book.getGenre()),
+                emptyToNull(book.getPublisher()),
+                book.getYearPublished());
+    }
+
+    static Genre toProto(com.nalutbae.example.domain.enumeration.Genre genre) {
+        return genre == null ? Genre.GENRE_UNSPECIFIED : Genre.valueOf(GENRE_PREFIX + genre.name());
+    }
+
+    static com.nalutbae.example.domain.enumeration.Genre toDomain(Genre genre) {
+        if (genre == Genre.GENRE_UNSPECIFIED || genre == Genre.UNRECOGNIZED) {
+            return null;
+        }
+        return com.nalutbae.example.domain.enumeration.Genre.valueOf(genre.name().substring(GENRE_PREFIX.length()));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,249 @@
+package com.nalutbae.example.grpc;
+
+import com.nalutbae.example.service.BookService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.quarkus.grpc.GrpcService;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+
+/**
+ * gRPC counterpart of {@code BookResource}, served by the HTTP server next to the REST API.
+ * <p>
+ * Written against the grpc-java {@link StreamObserver} API rather than the Mutiny one, whose inbound streams are
+ * buffered without bound, so that both streaming calls follow gRPC flow control.
+ */
+@GrpcService
+public class BooksGrpcService extends BooksGrpc.BooksImplBase {
+    private final BookService bookService;
+    private final Validator validator;
+
+    public BooksGrpcService(BookService bookService, Validator validator) {
+        this.bookService = bookService;
+        this.validator = validator;
+    }
+
+    @Override
+    public void getBook(GetBookRequest request, StreamObserver<Book> responseObserver) {
+        reply(this.bookService.getBook(request.getIsbn())
+                .onItem().ifNull().failWith(() -> Status.NOT_FOUND
+                        .withDescription("Book " + request.getIsbn() + " is not found")
+                        .asRuntimeException())
+                .onItem().transform(BookMapper::toProto), responseObserver);
+    }
+
+    @Override
+    public void getBooks(GetBooksRequest request, StreamObserver<GetBooksResponse> responseObserver) {
+        reply(Multi.createFrom().iterable(request.getIsbnsList())
+                .onItem().transformToUniAndConcatenate(this.bookService::getBook) // null items, i.e. unknown ISBNs, are dropped
+                .onItem().transform(BookMapper::toProto)
+                .collect().asList()
+                .onItem().transform(books -> GetBooksResponse.newBuilder().addAllBooks(books).build()), responseObserver);
+    }
+
+    @Override
+    public void upsertBook(Book request, StreamObserver<Book> responseObserver) {
+        com.nalutbae.example.domain.Book book = BookMapper.toDomain(request);
+        String violations = validate(book);
+        if (violations != null) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(violations).asRuntimeException());
+            return;
+        }
+        reply(this.bookService.addOrUpdateBook(book)
+                .onItem().transform(BookMapper::toProto), responseObserver);
+    }
+
+    @Override
+    public void deleteBook(DeleteBookRequest request, StreamObserver<DeleteBookResponse> responseObserver) {
+        reply(this.bookService.deleteBook(request.getIsbn())
+                .onItem().transform(ignored -> DeleteBookResponse.getDefaultInstance()), responseObserver);
+    }
+
+    @Override
+    public void listBooks(ListBooksRequest request, StreamObserver<Book> responseObserver) {
+        ServerCallStreamObserver<Book> call = (ServerCallStreamObserver<Book>) responseObserver;
+        Multi.createFrom().iterable(this.bookService.getBooks())
+                .onItem().transform(BookMapper::toProto)
+                .subscribe().withSubscriber(new ReadySubscriber<>(call));
+    }
+
+    @Override
+    public StreamObserver<Book> upsertBooks(StreamObserver<UpsertBookResponse> responseObserver) {
+        ServerCallStreamObserver<UpsertBookResponse> call = (ServerCallStreamObserver<UpsertBookResponse>) responseObserver;
+        // The next book is only requested once the previous one is stored, so a client writing faster than that is held
+        // back by the HTTP/2 flow-control window instead of being buffered here.
+        call.disableAutoRequest();
+        UpsertObserver observer = new UpsertObserver(call);
+        call.setOnCancelHandler(observer::cancel);
+        call.request(1);
+        return observer;
+    }
+
+    private Uni<UpsertBookResponse> upsert(Book request) {
+        com.nalutbae.example.domain.Book book = BookMapper.toDomain(request);
+        String violations = validate(book);
+        if (violations != null) {
+            return Uni.createFrom().item(UpsertBookResponse.newBuilder()
+                    .setIsbn(request.getIsbn())
+                    .setAccepted(false)
+                    .setError(violations)
+                    .build());
+        }
+        return this.bookService.addOrUpdateBook(book)
+                .onItem().transform(item -> UpsertBookResponse.newBuilder()
+                        .setIsbn(request.getIsbn())
+                        .setAccepted(true)
+                        .build());
+    }
+
+    private String validate(com.nalutbae.example.domain.Book book) {
+        Set<ConstraintViolation<com.nalutbae.example.domain.Book>> violations = this.validator.validate(book);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static <T> void reply(Uni<T> uni, StreamObserver<T> responseObserver) {
+        uni.subscribe().with(
+                item -> {
+                    responseObserver.onNext(item);
+                    responseObserver.onCompleted();
+                },
+                responseObserver::onError);
+    }
+
+    /**
+     * Stores the books of an {@code UpsertBooks} call one at a time, and stops answering once the client cancels.
+     */
+    private final class UpsertObserver implements StreamObserver<Book> {
+        private final ServerCallStreamObserver<UpsertBookResponse> call;
+        private boolean upserting;
+        private boolean halfClosed;
+        private Cancellable storing;
+
+        private UpsertObserver(ServerCallStreamObserver<UpsertBookResponse> call) {
+            this.call = call;
+        }
+
+        @Override
+        public void onNext(Book request) {
+            synchronized (this) {
+                this.upserting = true;
+            }
+            Cancellable storing = upsert(request).subscribe().with(this::stored, this::failed);
+            synchronized (this) {
+                if (this.upserting) {
+                    this.storing = storing;
+                }
+            }
+            // The cancel handler may have run before the store was registered.
+            if (this.call.isCancelled()) {
+                cancel();
+            }
+        }
+
+        private void stored(UpsertBookResponse response) {
+            boolean complete;
+            synchronized (this) {
+                this.upserting = false;
+                this.storing = null;
+                complete = this.halfClosed;
+            }
+            if (this.call.isCancelled()) {
+                return;
+            }
+            this.call.onNext(response);
+            if (complete) {
+                this.call.onCompleted();
+            } else {
+                this.call.request(1);
+            }
+        }
+
+        private void failed(Throwable failure) {
+            if (!this.call.isCancelled()) {
+                this.call.onError(failure);
+            }
+        }
+
+        private void cancel() {
+            Cancellable storing;
+            synchronized (this) {
+                storing = this.storing;
+                this.storing = null;
+            }
+            if (storing != null) {
+                storing.cancel();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            // The client cancelled, the cancel handler has already dropped the pending store.
+        }
+
+        @Override
+        public void onCompleted() {
+            boolean complete;
+            synchronized (this) {
+                this.halfClosed = true;
+                complete = !this.upserting;
+            }
+            if (complete && !this.call.isCancelled()) {
+                this.call.onCompleted();
+            }
+        }
+    }
+
+    /**
+     * Requests items from a {@link Multi} only while the call can send them without buffering.
+     */
+    private static final class ReadySubscriber<T> implements MultiSubscriber<T> {
+        private final ServerCallStreamObserver<T> call;
+        private Flow.Subscription subscription;
+
+        private ReadySubscriber(ServerCallStreamObserver<T> call) {
+            this.call = call;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            this.call.setOnCancelHandler(subscription::cancel);
+            // Only fires when the call turns ready again, onItem keeps requesting while it stays ready.
+            this.call.setOnReadyHandler(() -> subscription.request(1));
+            subscription.request(1);
+        }
+
+        @Override
+        public void onItem(T item) {
+            this.call.onNext(item);
+            if (this.call.isReady()) {
+                this.subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            this.call.onError(failure);
+        }
+
+        @Override
+        public void onCompletion() {
+            this.call.onCompleted();
+        }
+    }
+}
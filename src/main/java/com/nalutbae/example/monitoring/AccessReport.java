@@ -0,0 +1,112 @@
+package com.nalutbae.example.monitoring;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.StringJoiner;
+
+@RegisterForReflection
+public class AccessReport {
+    private Instant windowStart;
+    private long distinctIsbns;
+    private long previousWindowDistinctIsbns;
+    private KeyStatistics reads;
+    private KeyStatistics writes;
+    private Map<String, Long> genres;
+    private Map<String, Long> endpoints;
+    private long dropped;
+
+    public AccessReport() {
+    }
+
+    public AccessReport(Instant windowStart, long distinctIsbns, long previousWindowDistinctIsbns, KeyStatistics reads, KeyStatistics writes,
+                        Map<String, Long> genres, Map<String, Long> endpoints, long dropped) {
+        this.windowStart = windowStart;
+        this.distinctIsbns = distinctIsbns;
+        this.previousWindowDistinctIsbns = previousWindowDistinctIsbns;
+        this.reads = reads;
+        this.writes = writes;
+        this.genres = genres;
+        this.endpoints = endpoints;
+        this.dropped = dropped;
+    }
+
+    public Instant getWindowStart() {
+        return windowStart;
+    }
+
+    public void setWindowStart(Instant windowStart) {
+        this.windowStart = windowStart;
+    }
+
+    public long getDistinctIsbns() {
+        return distinctIsbns;
+    }
+
+    public void setDistinctIsbns(long distinctIsbns) {
+        this.distinctIsbns = distinctIsbns;
+    }
+
+    public long getPreviousWindowDistinctIsbns() {
+        return previousWindowDistinctIsbns;
+    }
+
+    public void setPreviousWindowDistinctIsbns(long previousWindowDistinctIsbns) {
+        this.previousWindowDistinctIsbns = previousWindowDistinctIsbns;
+    }
+
+    public KeyStatistics getReads() {
+        return reads;
+    }
+
+    public void setReads(KeyStatistics reads) {
+        this.reads = reads;
+    }
+
+    public KeyStatistics getWrites() {
+        return writes;
+    }
+
+    public void setWrites(KeyStatistics writes) {
+        this.writes = writes;
+    }
+
+    public Map<String, Long> getGenres() {
+        return genres;
+    }
+
+    public void setGenres(Map<String, Long> genres) {
+        this.genres = genres;
+    }
+
+    public Map<String, Long> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(Map<String, Long> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    public void setDropped(long dropped) {
+        this.dropped = dropped;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", AccessReport.class.getSimpleName() + "[", "]")
+                .add("windowStart=" + windowStart)
+                .add("distinctIsbns=" + distinctIsbns)
+                .add("previousWindowDistinctIsbns=" + previousWindowDistinctIsbns)
+                .add("reads=" + reads)
+                .add("writes=" + writes)
+                .add("genres=" + genres)
+                .add("endpoints=" + endpoints)
+                .add("dropped=" + dropped)
+                .toString();
+    }
+}
@@ -0,0 +1,30 @@
+package com.nalutbae.example.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted for every {@code BookService} operation.
+ * <p>
+ * {@code getBooks} and {@code performWorkGeneratingError} do no measurable work of their own and are recorded as
+ * instant events, with a zero duration.
+ */
+@Name("com.nalutbae.example.BookService")
+@Label("Book Service Operation")
+@Category({"Book Service", "Service"})
+@Description("Duration of a BookService operation")
+@StackTrace(false)
+public class BookServiceEvent extends Event {
+    @Label("Operation")
+    public String operation;
+
+    @Label("ISBN")
+    public String isbn;
+
+    @Label("Result Size")
+    public int resultSize;
+}
@@ -0,0 +1,50 @@
+package com.nalutbae.example.monitoring;
+
+/**
+ * Count-Min Sketch estimating how often a key was seen in fixed memory. An estimate is never lower than the real count
+ * and, with {@code depth} rows of {@code width} counters, exceeds it by at most {@code e / width} of the total with
+ * probability {@code 1 - e^-depth}.
+ * <p>
+ * Not thread-safe, updates are applied by a single drainer of {@link StripedBuffer}.
+ */
+public class CountMinSketch {
+    private final long[][] counters;
+    private final int mask;
+    private long total;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("depth must be positive and width a power of two: " + depth + ", " + width);
+        }
+        this.counters = new long[depth][width];
+        this.mask = width - 1;
+    }
+
+    public void add(String key) {
+        long hash = Hashing.hash(key);
+        for (int row = 0; row < this.counters.length; row++) {
+            this.counters[row][index(hash, row)]++;
+        }
+        this.total++;
+    }
+
+    public long estimate(String key) {
+        long hash = Hashing.hash(key);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < this.counters.length; row++) {
+            estimate = Math.min(estimate, this.counters[row][index(hash, row)]);
+        }
+        return estimate;
+    }
+
+    public long getTotal() {
+        return this.total;
+    }
+
+    // Kirsch-Mitzenmacher: row hashes derived from the two halves of one 64-bit hash.
+    private int index(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return (h1 + row * h2) & this.mask;
+    }
+}
@@ -0,0 +1,27 @@
+package com.nalutbae.example.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted when {@code GlobalErrorHandler} maps an exception to a response.
+ */
+@Name("com.nalutbae.example.ErrorMapping")
+@Label("Error Mapping")
+@Category({"Book Service", "REST"})
+@Description("Exception mapped to an error response")
+@StackTrace(false)
+public class ErrorMappingEvent extends Event {
+    @Label("Exception")
+    public String exception;
+
+    @Label("Message")
+    public String message;
+
+    @Label("Status")
+    public int status;
+}
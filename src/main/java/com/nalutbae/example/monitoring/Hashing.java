@@ -0,0 +1,20 @@
+package com.nalutbae.example.monitoring;
+
+final class Hashing {
+    private Hashing() {
+    }
+
+    /**
+     * Spreads the cached {@link String#hashCode()} over 64 bits with the MurmurHash3 finalizer, so that keys differing in
+     * a single character, like consecutive ISBNs, land far apart.
+     */
+    static long hash(String key) {
+        long h = key.hashCode() * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,57 @@
+package com.nalutbae.example.monitoring;
+
+import java.util.Arrays;
+
+/**
+ * HyperLogLog estimating the number of distinct keys in {@code 2^precision} bytes, with a standard error of
+ * {@code 1.04 / sqrt(2^precision)}.
+ * <p>
+ * Not thread-safe, updates are applied by a single drainer of {@link StripedBuffer}.
+ */
+public class HyperLogLog {
+    private final int precision;
+    private final byte[] registers;
+    private final double alphaMM;
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("precision must be between 4 and 18: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+        int m = this.registers.length;
+        this.alphaMM = 0.7213 / (1 + 1.079 / m) * m * m;
+    }
+
+    public void add(String key) {
+        long hash = Hashing.hash(key);
+        int index = (int) (hash >>> (64 - this.precision));
+        // The sentinel bit bounds the rank when the remaining bits are all zero.
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << this.precision) | (1L << (this.precision - 1))) + 1);
+        if (rank > this.registers[index]) {
+            this.registers[index] = rank;
+        }
+    }
+
+    public long estimate() {
+        int m = this.registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : this.registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = this.alphaMM / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            // Linear counting is more accurate for small cardinalities.
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public void clear() {
+        Arrays.fill(this.registers, (byte) 0);
+    }
+}
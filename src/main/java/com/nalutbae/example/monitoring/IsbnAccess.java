@@ -0,0 +1,57 @@
+package com.nalutbae.example.monitoring;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+import java.util.StringJoiner;
+
+/**
+ * Estimated number of reads and writes of one ISBN, never lower than the real counts.
+ */
+@RegisterForReflection
+public class IsbnAccess {
+    private String isbn;
+    private long reads;
+    private long writes;
+
+    public IsbnAccess() {
+    }
+
+    public IsbnAccess(String isbn, long reads, long writes) {
+        this.isbn = isbn;
+        this.reads = reads;
+        this.writes = writes;
+    }
+
+    public String getIsbn() {
+        return isbn;
+    }
+
+    public void setIsbn(String isbn) {
+        this.isbn = isbn;
+    }
+
+    public long getReads() {
+        return reads;
+    }
+
+    public void setReads(long reads) {
+        this.reads = reads;
+    }
+
+    public long getWrites() {
+        return writes;
+    }
+
+    public void setWrites(long writes) {
+        this.writes = writes;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", IsbnAccess.class.getSimpleName() + "[", "]")
+                .add("isbn='" + isbn + "'")
+                .add("reads=" + reads)
+                .add("writes=" + writes)
+                .toString();
+    }
+}
@@ -0,0 +1,57 @@
+package com.nalutbae.example.monitoring;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+import java.util.StringJoiner;
+
+/**
+ * Estimated count of a key; the real count lies between {@code count - error} and {@code count}.
+ */
+@RegisterForReflection
+public class KeyCount {
+    private String key;
+    private long count;
+    private long error;
+
+    public KeyCount() {
+    }
+
+    public KeyCount(String key, long count, long error) {
+        this.key = key;
+        this.count = count;
+        this.error = error;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public long getError() {
+        return error;
+    }
+
+    public void setError(long error) {
+        this.error = error;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", KeyCount.class.getSimpleName() + "[", "]")
+                .add("key='" + key + "'")
+                .add("count=" + count)
+                .add("error=" + error)
+                .toString();
+    }
+}
@@ -0,0 +1,44 @@
+package com.nalutbae.example.monitoring;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+@RegisterForReflection
+public class KeyStatistics {
+    private long total;
+    private List<KeyCount> top;
+
+    public KeyStatistics() {
+    }
+
+    public KeyStatistics(long total, List<KeyCount> top) {
+        this.total = total;
+        this.top = top;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<KeyCount> getTop() {
+        return top;
+    }
+
+    public void setTop(List<KeyCount> top) {
+        this.top = top;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", KeyStatistics.class.getSimpleName() + "[", "]")
+                .add("total=" + total)
+                .add("top=" + top)
+                .toString();
+    }
+}
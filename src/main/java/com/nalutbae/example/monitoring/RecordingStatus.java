@@ -0,0 +1,77 @@
+package com.nalutbae.example.monitoring;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+import java.time.Instant;
+import java.util.StringJoiner;
+
+@RegisterForReflection
+public class RecordingStatus {
+    private long id;
+    private String state;
+    private String settings;
+    private Instant startTime;
+    private Instant stopTime;
+
+    public RecordingStatus() {
+    }
+
+    public RecordingStatus(long id, String state, String settings, Instant startTime, Instant stopTime) {
+        this.id = id;
+        this.state = state;
+        this.settings = settings;
+        this.startTime = startTime;
+        this.stopTime = stopTime;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public String getSettings() {
+        return settings;
+    }
+
+    public void setSettings(String settings) {
+        this.settings = settings;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(Instant startTime) {
+        this.startTime = startTime;
+    }
+
+    public Instant getStopTime() {
+        return stopTime;
+    }
+
+    public void setStopTime(Instant stopTime) {
+        this.stopTime = stopTime;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", RecordingStatus.class.getSimpleName() + "[", "]")
+                .add("id=" + id)
+                .add("state='" + state + "'")
+                .add("settings='" + settings + "'")
+                .add("startTime=" + startTime)
+                .add("stopTime=" + stopTime)
+                .toString();
+    }
+}
@@ -0,0 +1,25 @@
+package com.nalutbae.example.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted when Jackson reads or writes one of the application's beans.
+ */
+@Name("com.nalutbae.example.Serialization")
+@Label("Serialization")
+@Category({"Book Service", "REST"})
+@Description("Duration of deserializing or serializing an application bean")
+@StackTrace(false)
+public class SerializationEvent extends Event {
+    @Label("Direction")
+    @Description("READ when deserializing, WRITE when serializing")
+    public String direction;
+
+    @Label("Type")
+    public String type;
+}
@@ -0,0 +1,66 @@
+package com.nalutbae.example.monitoring;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving top-K summary. It monitors at most {@code capacity} keys; an unmonitored key replaces the one with the
+ * lowest count and inherits that count as its error, so every key seen more than {@code total / capacity} times is
+ * guaranteed to be monitored.
+ * <p>
+ * Not thread-safe, updates are applied by a single drainer of {@link StripedBuffer}.
+ */
+public class SpaceSaving {
+    private final int capacity;
+    private final Map<String, Counter> counters;
+
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public void add(String key) {
+        Counter counter = this.counters.get(key);
+        if (counter != null) {
+            counter.count++;
+        } else if (this.counters.size() < this.capacity) {
+            this.counters.put(key, new Counter(key, 1, 0));
+        } else {
+            // Linear scan: the capacity is small and only a miss on a full summary pays for it.
+            Counter min = null;
+            for (Counter candidate : this.counters.values()) {
+                if (min == null || candidate.count < min.count) {
+                    min = candidate;
+                }
+            }
+            this.counters.remove(min.key);
+            this.counters.put(key, new Counter(key, min.count + 1, min.count));
+        }
+    }
+
+    public List<KeyCount> top(int k) {
+        return this.counters.values()
+            .stream()
+            .sorted(Comparator.comparingLong((Counter counter) -> counter.count).reversed())
+            .limit(k)
+            .map(counter -> new KeyCount(counter.key, counter.count, counter.error))
+            .toList();
+    }
+
+    private static final class Counter {
+        private final String key;
+        private long count;
+        private final long error;
+
+        private Counter(String key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
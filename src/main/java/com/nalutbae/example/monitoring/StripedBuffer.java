@@ -0,0 +1,93 @@
+package com.nalutbae.example.monitoring;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer, single-consumer buffer of keys. Producers pick a stripe from their thread id and claim a slot
+ * with a CAS, so recording never blocks; an offer reports when its stripe is half full and is refused when it is full.
+ */
+public class StripedBuffer {
+    private static final int STRIPE_CAPACITY = 256;
+    private static final int STRIPE_MASK = STRIPE_CAPACITY - 1;
+    private static final int HIGH_WATER_MARK = STRIPE_CAPACITY / 2;
+
+    public enum Offer {
+        ACCEPTED,
+        /** Accepted, but the stripe is at least half full and should be drained soon. */
+        NEEDS_DRAIN,
+        /** Refused, the stripe is full. */
+        FULL
+    }
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    public StripedBuffer() {
+        this(4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    StripedBuffer(int stripes) {
+        int count = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.mask = count - 1;
+    }
+
+    /**
+     * @param key must not be {@code null}, which marks a claimed slot that is not published yet
+     * @return whether the key was accepted, and if the stripe of the calling thread needs a {@link #drain(Consumer)}
+     */
+    public Offer offer(String key) {
+        Objects.requireNonNull(key, "key");
+        Stripe stripe = this.stripes[probe() & this.mask];
+        for (;;) {
+            long tail = stripe.tail.get();
+            long size = tail - stripe.head;
+            if (size >= STRIPE_CAPACITY) {
+                return Offer.FULL;
+            }
+            if (stripe.tail.compareAndSet(tail, tail + 1)) {
+                stripe.slots.lazySet((int) (tail & STRIPE_MASK), key);
+                return size + 1 >= HIGH_WATER_MARK ? Offer.NEEDS_DRAIN : Offer.ACCEPTED;
+            }
+        }
+    }
+
+    /**
+     * Hands every published key to the consumer. Must not be called concurrently.
+     */
+    public void drain(Consumer<String> consumer) {
+        for (Stripe stripe : this.stripes) {
+            long head = stripe.head;
+            long tail = stripe.tail.get();
+            while (head < tail) {
+                int index = (int) (head & STRIPE_MASK);
+                String key = stripe.slots.get(index);
+                if (key == null) {
+                    // Claimed but not yet published, picked up by the next drain.
+                    break;
+                }
+                stripe.slots.lazySet(index, null);
+                consumer.accept(key);
+                head++;
+            }
+            stripe.head = head;
+        }
+    }
+
+    private static int probe() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+
+    private static final class Stripe {
+        private final AtomicLong tail = new AtomicLong();
+        private final AtomicReferenceArray<String> slots = new AtomicReferenceArray<>(STRIPE_CAPACITY);
+        private volatile long head;
+    }
+}
@@ -0,0 +1,24 @@
+package com.nalutbae.example.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted for the bean validation of a REST endpoint invocation.
+ */
+@Name("com.nalutbae.example.Validation")
+@Label("Bean Validation")
+@Category({"Book Service", "REST"})
+@Description("Duration of the bean validation of endpoint parameters")
+@StackTrace(false)
+public class ValidationEvent extends Event {
+    @Label("Method")
+    public String method;
+
+    @Label("Valid")
+    public boolean valid;
+}
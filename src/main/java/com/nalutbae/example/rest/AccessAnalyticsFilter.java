@@ -0,0 +1,18 @@
+package com.nalutbae.example.rest;
+
+import com.nalutbae.example.service.AccessAnalyticsService;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+import org.jboss.resteasy.reactive.server.SimpleResourceInfo;
+
+public class AccessAnalyticsFilter {
+    private final AccessAnalyticsService accessAnalyticsService;
+
+    public AccessAnalyticsFilter(AccessAnalyticsService accessAnalyticsService) {
+        this.accessAnalyticsService = accessAnalyticsService;
+    }
+
+    @ServerRequestFilter
+    public void countEndpoint(SimpleResourceInfo resourceInfo) {
+        this.accessAnalyticsService.recordEndpoint(resourceInfo.getResourceClass().getSimpleName(), resourceInfo.getMethodName());
+    }
+}
@@ -0,0 +1,41 @@
+package com.nalutbae.example.rest;
+
+import com.nalutbae.example.monitoring.AccessReport;
+import com.nalutbae.example.monitoring.IsbnAccess;
+import com.nalutbae.example.service.AccessAnalyticsService;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+@Path("/admin/analytics")
+@Tag(name = "Access Analytics Resource", description = "Hot key and access pattern API")
+public class AccessAnalyticsResource {
+    private final AccessAnalyticsService accessAnalyticsService;
+
+    public AccessAnalyticsResource(AccessAnalyticsService accessAnalyticsService) {
+        this.accessAnalyticsService = accessAnalyticsService;
+    }
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Get the access report", description = "Get the hottest ISBNs, genre and endpoint counts and distinct ISBNs read in the current window")
+    @APIResponse(responseCode = "200", description = "Access report")
+    public AccessReport report() {
+        return this.accessAnalyticsService.getReport();
+    }
+
+    @GET
+    @Path("/isbns/{isbn}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Get the access estimate of an isbn", description = "Get the estimated number of reads and writes of an isbn")
+    @APIResponse(responseCode = "200", description = "Access estimate")
+    public IsbnAccess isbnAccess(@Parameter(required = true, description = "Book ISBN") @PathParam("isbn") String isbn) {
+        return this.accessAnalyticsService.getIsbnAccess(isbn);
+    }
+}
@@ -0,0 +1,69 @@
+package com.nalutbae.example.rest;
+
+import io.quarkus.runtime.Startup;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Guards the {@code /admin} endpoints: hidden unless {@code book.admin.enabled} is set, in which case they require the
+ * {@code admin} user with the {@code book.admin.password} password over basic authentication.
+ */
+@Startup
+public class AdminAccessFilter {
+    private static final String ADMIN_PATH = "/admin";
+    private static final String ADMIN_USER = "admin";
+    private static final String BASIC_PREFIX = "Basic ";
+
+    private final boolean enabled;
+    private final byte[] credentials;
+
+    public AdminAccessFilter(@ConfigProperty(name = "book.admin.enabled", defaultValue = "false") boolean enabled,
+                             @ConfigProperty(name = "book.admin.password") Optional<String> password) {
+        if (enabled && password.filter(value -> !value.isBlank()).isEmpty()) {
+            throw new IllegalStateException("book.admin.password must be set when book.admin.enabled is true");
+        }
+        this.enabled = enabled;
+        this.credentials = password
+                .map(value -> (ADMIN_USER + ":" + value).getBytes(StandardCharsets.UTF_8))
+                .orElse(null);
+    }
+
+    @ServerRequestFilter(priority = Priorities.AUTHENTICATION)
+    public Response authenticate(ContainerRequestContext requestContext) {
+        String path = requestContext.getUriInfo().getPath();
+        if (!path.equals(ADMIN_PATH) && !path.startsWith(ADMIN_PATH + "/")) {
+            return null;
+        }
+        if (!this.enabled) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        if (!isAdmin(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION))) {
+            return Response.status(Response.Status.UNAUTHORIZED)
+                    .header(HttpHeaders.WWW_AUTHENTICATE, "Basic realm=\"admin\"")
+                    .build();
+        }
+        return null;
+    }
+
+    private boolean isAdmin(String authorization) {
+        if (authorization == null || !authorization.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+            return false;
+        }
+        byte[] presented;
+        try {
+            presented = Base64.getDecoder().decode(authorization.substring(BASIC_PREFIX.length()).trim());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(presented, this.credentials);
+    }
+}
@@ -54,6 +54,7 @@ public class BookResource {
     @Operation(summary = "Add a new book", description = "Add a new book")
     @APIResponse(responseCode = "201", description = "Book added")
     @APIResponse(responseCode = "400", description = "Book is invalid")
+    @ValidationRecorded
     public Uni<Response> addBook(@Parameter(required = true, description = "Book to add") @NotNull @Valid Book book) {
         return this.bookService.addOrUpdateBook(book)
                 .onItem().transform(item -> Response.status(Response.Status.CREATED)
@@ -69,6 +70,7 @@ public class BookResource {
     @Operation(summary = "Update a book", description = "Update a book")
     @APIResponse(responseCode = "200", description = "Book updated")
     @APIResponse(responseCode = "400", description = "Book is invalid")
+    @ValidationRecorded
     public Uni<Book> updateBook(@Parameter(required = true, description = "Book to update") @NotNull @Valid Book book) {
         return this.bookService.addOrUpdateBook(book);
     }
@@ -0,0 +1,94 @@
+package com.nalutbae.example.rest;
+
+import com.nalutbae.example.monitoring.RecordingStatus;
+import com.nalutbae.example.service.FlightRecorderService;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.nio.file.Files;
+
+@Path("/admin/jfr")
+@Tag(name = "Flight Recorder Resource", description = "On-demand JDK Flight Recorder API")
+public class FlightRecorderResource {
+    private final FlightRecorderService flightRecorderService;
+
+    public FlightRecorderResource(FlightRecorderService flightRecorderService) {
+        this.flightRecorderService = flightRecorderService;
+    }
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Get the current recording", description = "Get the current recording")
+    @APIResponse(responseCode = "200", description = "Current recording", content = @Content(schema = @Schema(implementation = RecordingStatus.class)))
+    @APIResponse(responseCode = "404", description = "No recording")
+    public Response status() {
+        return this.flightRecorderService.getStatus()
+                .map(status -> Response.ok(status).build())
+                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
+    }
+
+    @POST
+    @Path("/start")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Start a recording", description = "Start a recording")
+    @APIResponse(responseCode = "201", description = "Recording started", content = @Content(schema = @Schema(implementation = RecordingStatus.class)))
+    @APIResponse(responseCode = "400", description = "Settings are unknown")
+    @APIResponse(responseCode = "409", description = "A recording is already running")
+    public Response start(@Parameter(description = "JFR settings, default or profile") @QueryParam("settings") @DefaultValue("profile") String settings) {
+        if (!this.flightRecorderService.hasSettings(settings)) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        return this.flightRecorderService.start(settings)
+                .map(status -> Response.status(Response.Status.CREATED).entity(status).build())
+                .orElseGet(() -> Response.status(Response.Status.CONFLICT).build());
+    }
+
+    @POST
+    @Path("/stop")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Stop the running recording", description = "Stop the running recording")
+    @APIResponse(responseCode = "200", description = "Recording stopped", content = @Content(schema = @Schema(implementation = RecordingStatus.class)))
+    @APIResponse(responseCode = "409", description = "No recording is running")
+    public Response stop() {
+        return this.flightRecorderService.stop()
+                .map(status -> Response.ok(status).build())
+                .orElseGet(() -> Response.status(Response.Status.CONFLICT).build());
+    }
+
+    @GET
+    @Path("/dump")
+    @Produces(MediaType.APPLICATION_OCTET_STREAM)
+    @Operation(summary = "Dump the current recording", description = "Dump the current recording as a .jfr file")
+    @APIResponse(responseCode = "200", description = "Recording file")
+    @APIResponse(responseCode = "404", description = "No recording")
+    public Response dump() {
+        return this.flightRecorderService.dump()
+                .map(file -> Response.ok(stream(file))
+                        .header("Content-Disposition", "attachment; filename=\"book-service.jfr\"")
+                        .build())
+                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
+    }
+
+    private static StreamingOutput stream(java.nio.file.Path file) {
+        return output -> {
+            try {
+                Files.copy(file, output);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+    }
+}
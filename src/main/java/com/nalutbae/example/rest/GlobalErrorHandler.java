@@ -1,6 +1,7 @@
 package com.nalutbae.example.rest;
 
 import com.nalutbae.example.domain.CustomRuntimeException;
+import com.nalutbae.example.monitoring.ErrorMappingEvent;
 import jakarta.ws.rs.core.Response;
 
 import org.jboss.resteasy.reactive.server.ServerExceptionMapper;
@@ -8,9 +9,18 @@ import org.jboss.resteasy.reactive.server.ServerExceptionMapper;
 public class GlobalErrorHandler {
 	@ServerExceptionMapper(CustomRuntimeException.class)
 	public Response handleCustomRuntimeException(CustomRuntimeException cre) {
-		return Response.serverError()
+		ErrorMappingEvent event = new ErrorMappingEvent();
+		event.begin();
+		Response response = Response.serverError()
 			.header("X-CUSTOM-ERROR", "500")
 			.entity(new CustomError(500, cre.getMessage()))
 			.build();
+		if (event.shouldCommit()) {
+			event.exception = cre.getClass().getName();
+			event.message = cre.getMessage();
+			event.status = response.getStatus();
+			event.commit();
+		}
+		return response;
 	}
 }
@@ -0,0 +1,165 @@
+package com.nalutbae.example.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import com.nalutbae.example.monitoring.SerializationEvent;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+
+/**
+ * Records a {@link SerializationEvent} whenever Jackson reads or writes one of the application's beans.
+ * <p>
+ * The bean (de)serializers are wrapped inside the {@link ObjectMapper} rather than intercepting the JAX-RS entity
+ * providers, so RESTEasy Reactive keeps writing entities straight through its message body writers.
+ */
+@Singleton
+public class SerializationRecorder implements ObjectMapperCustomizer {
+    private static final String RECORDED_PACKAGE = "com.nalutbae.example";
+
+    @Override
+    public void customize(ObjectMapper objectMapper) {
+        objectMapper.registerModule(new SimpleModule(SerializationRecorder.class.getSimpleName())
+                .setSerializerModifier(new BeanSerializerModifier() {
+                    @Override
+                    public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+                        return isRecorded(beanDesc) ? new RecordingSerializer(serializer, beanDesc.getBeanClass().getName()) : serializer;
+                    }
+                })
+                .setDeserializerModifier(new BeanDeserializerModifier() {
+                    @Override
+                    public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+                        return isRecorded(beanDesc) ? new RecordingDeserializer(deserializer, beanDesc.getBeanClass().getName()) : deserializer;
+                    }
+                }));
+    }
+
+    private static boolean isRecorded(BeanDescription beanDesc) {
+        Class<?> beanClass = beanDesc.getBeanClass();
+        return !beanClass.isEnum() && beanClass.getName().startsWith(RECORDED_PACKAGE);
+    }
+
+    private static final class RecordingSerializer extends JsonSerializer<Object> implements ContextualSerializer, ResolvableSerializer {
+        private final JsonSerializer<Object> delegate;
+        private final String type;
+
+        @SuppressWarnings("unchecked")
+        private RecordingSerializer(JsonSerializer<?> delegate, String type) {
+            this.delegate = (JsonSerializer<Object>) delegate;
+            this.type = type;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            SerializationEvent event = new SerializationEvent();
+            event.begin();
+            this.delegate.serialize(value, gen, serializers);
+            commit(event, "WRITE", this.type);
+        }
+
+        @Override
+        public void serializeWithType(Object value, JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+            SerializationEvent event = new SerializationEvent();
+            event.begin();
+            this.delegate.serializeWithType(value, gen, serializers, typeSer);
+            commit(event, "WRITE", this.type);
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
+            if (this.delegate instanceof ContextualSerializer contextual) {
+                JsonSerializer<?> serializer = contextual.createContextual(prov, property);
+                return serializer == this.delegate ? this : new RecordingSerializer(serializer, this.type);
+            }
+            return this;
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (this.delegate instanceof ResolvableSerializer resolvable) {
+                resolvable.resolve(provider);
+            }
+        }
+
+        @Override
+        public JsonSerializer<Object> unwrappingSerializer(NameTransformer unwrapper) {
+            JsonSerializer<Object> serializer = this.delegate.unwrappingSerializer(unwrapper);
+            return serializer == this.delegate ? this : new RecordingSerializer(serializer, this.type);
+        }
+
+        @Override
+        public boolean isUnwrappingSerializer() {
+            return this.delegate.isUnwrappingSerializer();
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Object value) {
+            return this.delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        public boolean usesObjectId() {
+            return this.delegate.usesObjectId();
+        }
+
+        @Override
+        public Class<Object> handledType() {
+            return this.delegate.handledType();
+        }
+
+        @Override
+        public JsonSerializer<?> getDelegatee() {
+            return this.delegate;
+        }
+    }
+
+    private static final class RecordingDeserializer extends DelegatingDeserializer {
+        private final String type;
+
+        private RecordingDeserializer(JsonDeserializer<?> delegate, String type) {
+            super(delegate);
+            this.type = type;
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new RecordingDeserializer(newDelegatee, this.type);
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            SerializationEvent event = new SerializationEvent();
+            event.begin();
+            Object value = super.deserialize(p, ctxt);
+            commit(event, "READ", this.type);
+            return value;
+        }
+    }
+
+    private static void commit(SerializationEvent event, String direction, String type) {
+        if (event.shouldCommit()) {
+            event.direction = direction;
+            event.type = type;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.nalutbae.example.rest;
+
+import com.nalutbae.example.monitoring.ValidationEvent;
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Ends the {@link ValidationEvent} started by {@link ValidationRecorderInterceptor} once validation has passed.
+ */
+@ValidationRecorded
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_AFTER + 801)
+public class ValidationEndInterceptor {
+    @AroundInvoke
+    Object end(InvocationContext context) throws Exception {
+        if (context.getContextData().get(ValidationRecorderInterceptor.EVENT_KEY) instanceof ValidationEvent event) {
+            event.end();
+        }
+        return context.proceed();
+    }
+}
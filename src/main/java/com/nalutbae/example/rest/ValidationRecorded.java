@@ -0,0 +1,17 @@
+package com.nalutbae.example.rest;
+
+import jakarta.interceptor.InterceptorBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Records a {@link com.nalutbae.example.monitoring.ValidationEvent} for the bean validation of the annotated endpoint.
+ */
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ValidationRecorded {
+}
@@ -0,0 +1,43 @@
+package com.nalutbae.example.rest;
+
+import com.nalutbae.example.monitoring.ValidationEvent;
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.validation.ConstraintViolationException;
+
+/**
+ * Begins a {@link ValidationEvent} just before the Hibernate Validator endpoint interceptor, which runs at
+ * {@code PLATFORM_AFTER + 800}. {@link ValidationEndInterceptor} ends it once validation has passed, so the
+ * recorded duration excludes the endpoint itself.
+ */
+@ValidationRecorded
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_AFTER + 799)
+public class ValidationRecorderInterceptor {
+    static final String EVENT_KEY = ValidationEvent.class.getName();
+
+    @AroundInvoke
+    Object record(InvocationContext context) throws Exception {
+        ValidationEvent event = new ValidationEvent();
+        if (!event.isEnabled()) {
+            return context.proceed();
+        }
+        event.begin();
+        context.getContextData().put(EVENT_KEY, event);
+        boolean valid = true;
+        try {
+            return context.proceed();
+        } catch (ConstraintViolationException e) {
+            valid = false;
+            throw e;
+        } finally {
+            if (event.shouldCommit()) {
+                event.method = context.getMethod().getDeclaringClass().getSimpleName() + "." + context.getMethod().getName();
+                event.valid = valid;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.nalutbae.example.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.inject.Singleton;
+
+/**
+ * Publishes the aggregates of {@link AccessAnalyticsService}; per-key counts stay on the admin endpoint to keep metric
+ * cardinality bounded.
+ */
+@Singleton
+public class AccessAnalyticsMetrics implements MeterBinder {
+    private final AccessAnalyticsService accessAnalyticsService;
+
+    public AccessAnalyticsMetrics(AccessAnalyticsService accessAnalyticsService) {
+        this.accessAnalyticsService = accessAnalyticsService;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("books.access.distinct.isbns", this.accessAnalyticsService, AccessAnalyticsService::getDistinctIsbns)
+            .description("Estimated number of distinct ISBNs read in the current window")
+            .register(registry);
+        FunctionCounter.builder("books.access.keys", this.accessAnalyticsService, AccessAnalyticsService::getReadCount)
+            .description("ISBNs recorded by the access analytics")
+            .tag("operation", "getBook")
+            .register(registry);
+        FunctionCounter.builder("books.access.keys", this.accessAnalyticsService, AccessAnalyticsService::getWriteCount)
+            .description("ISBNs recorded by the access analytics")
+            .tag("operation", "addOrUpdateBook")
+            .register(registry);
+        FunctionCounter.builder("books.access.dropped", this.accessAnalyticsService, AccessAnalyticsService::getDroppedCount)
+            .description("ISBNs dropped because the access analytics buffer was full")
+            .register(registry);
+    }
+}
@@ -0,0 +1,274 @@
+package com.nalutbae.example.service;
+
+import com.nalutbae.example.domain.enumeration.Genre;
+import com.nalutbae.example.monitoring.AccessReport;
+import com.nalutbae.example.monitoring.CountMinSketch;
+import com.nalutbae.example.monitoring.HyperLogLog;
+import com.nalutbae.example.monitoring.IsbnAccess;
+import com.nalutbae.example.monitoring.KeyCount;
+import com.nalutbae.example.monitoring.KeyStatistics;
+import com.nalutbae.example.monitoring.SpaceSaving;
+import com.nalutbae.example.monitoring.StripedBuffer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks which ISBNs, genres and endpoints dominate traffic in bounded memory.
+ * <p>
+ * ISBNs are unbounded, so they are only appended to lock-free {@link StripedBuffer}s on the request path. A drainer
+ * thread applies them to Count-Min sketches, Space-Saving top-K summaries and a per-window HyperLogLog every second
+ * and as soon as a stripe is half full, so keys are only dropped when it falls behind; reports drain the buffers first. Genres and endpoints are few and counted exactly.
+ */
+@ApplicationScoped
+public class AccessAnalyticsService {
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 1 << 12;
+    private static final int HYPER_LOG_LOG_PRECISION = 14;
+    // Monitoring more keys than reported makes the reported ones more accurate.
+    private static final int SPACE_SAVING_FACTOR = 4;
+
+    private final Duration window;
+    private final int topK;
+
+    private final KeyTracker reads;
+    private final KeyTracker writes;
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder[] genres = new LongAdder[Genre.values().length];
+    private final ConcurrentMap<String, ConcurrentMap<String, LongAdder>> endpoints = new ConcurrentHashMap<>();
+
+    private final ReentrantLock drainLock = new ReentrantLock();
+    // Guarded by drainLock.
+    private final HyperLogLog distinctReads = new HyperLogLog(HYPER_LOG_LOG_PRECISION);
+    private Instant windowStart = Instant.now();
+    private long previousWindowDistinctReads;
+
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private volatile ScheduledExecutorService drainer;
+
+    public AccessAnalyticsService(@ConfigProperty(name = "book.analytics.window", defaultValue = "1m") Duration window,
+                                  @ConfigProperty(name = "book.analytics.top-k", defaultValue = "10") int topK) {
+        this.window = window;
+        this.topK = topK;
+        this.reads = new KeyTracker(topK * SPACE_SAVING_FACTOR);
+        this.writes = new KeyTracker(topK * SPACE_SAVING_FACTOR);
+        for (int i = 0; i < this.genres.length; i++) {
+            this.genres[i] = new LongAdder();
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        this.drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "access-analytics-drainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.drainer.scheduleWithFixedDelay(this::drain, 1, 1, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        this.drainer.shutdownNow();
+    }
+
+    public void recordRead(String isbn) {
+        if (isbn != null) {
+            record(this.reads.buffer, isbn);
+        }
+    }
+
+    public void recordWrite(String isbn) {
+        if (isbn != null) {
+            record(this.writes.buffer, isbn);
+        }
+    }
+
+    public void recordGenre(Genre genre) {
+        if (genre != null) {
+            this.genres[genre.ordinal()].increment();
+        }
+    }
+
+    /**
+     * @param service the REST resource or gRPC service, reported as {@code service.method}
+     */
+    public void recordEndpoint(String service, String method) {
+        this.endpoints.computeIfAbsent(service, ignored -> new ConcurrentHashMap<>())
+            .computeIfAbsent(method, ignored -> new LongAdder())
+            .increment();
+    }
+
+    public AccessReport getReport() {
+        this.drainLock.lock();
+        try {
+            drainLocked();
+            return new AccessReport(
+                this.windowStart,
+                this.distinctReads.estimate(),
+                this.previousWindowDistinctReads,
+                this.reads.statistics(this.topK),
+                this.writes.statistics(this.topK),
+                genreCounts(),
+                endpointCounts(),
+                this.dropped.sum());
+        } finally {
+            this.drainLock.unlock();
+        }
+    }
+
+    public IsbnAccess getIsbnAccess(String isbn) {
+        this.drainLock.lock();
+        try {
+            drainLocked();
+            return new IsbnAccess(isbn, this.reads.counts.estimate(isbn), this.writes.counts.estimate(isbn));
+        } finally {
+            this.drainLock.unlock();
+        }
+    }
+
+    public long getDistinctIsbns() {
+        this.drainLock.lock();
+        try {
+            drainLocked();
+            return this.distinctReads.estimate();
+        } finally {
+            this.drainLock.unlock();
+        }
+    }
+
+    public long getReadCount() {
+        return getTotal(this.reads);
+    }
+
+    public long getWriteCount() {
+        return getTotal(this.writes);
+    }
+
+    public long getDroppedCount() {
+        return this.dropped.sum();
+    }
+
+    void drain() {
+        this.drainLock.lock();
+        try {
+            drainLocked();
+        } finally {
+            this.drainLock.unlock();
+        }
+    }
+
+    private long getTotal(KeyTracker tracker) {
+        this.drainLock.lock();
+        try {
+            drainLocked();
+            return tracker.counts.getTotal();
+        } finally {
+            this.drainLock.unlock();
+        }
+    }
+
+    // The caller may be an event loop: it never drains, a half full stripe wakes the drainer up and a full one drops the key.
+    private void record(StripedBuffer buffer, String isbn) {
+        StripedBuffer.Offer offer = buffer.offer(isbn);
+        if (offer == StripedBuffer.Offer.FULL) {
+            this.dropped.increment();
+        }
+        if (offer != StripedBuffer.Offer.ACCEPTED) {
+            requestDrain();
+        }
+    }
+
+    private void requestDrain() {
+        ScheduledExecutorService executor = this.drainer;
+        // Reading first keeps producers above the high-water mark from contending on the CAS while a drain is pending.
+        if (executor != null && !this.drainRequested.get() && this.drainRequested.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> {
+                    this.drainRequested.set(false);
+                    drain();
+                });
+            } catch (RejectedExecutionException e) {
+                // Shutting down.
+            }
+        }
+    }
+
+    private void drainLocked() {
+        Instant now = Instant.now();
+        Instant windowEnd = this.windowStart.plus(this.window);
+        if (!now.isBefore(windowEnd)) {
+            // No read at all during the previous window if more than one has elapsed.
+            this.previousWindowDistinctReads = now.isBefore(windowEnd.plus(this.window)) ? this.distinctReads.estimate() : 0;
+            this.distinctReads.clear();
+            this.windowStart = now;
+        }
+        this.reads.buffer.drain(isbn -> {
+            this.reads.add(isbn);
+            this.distinctReads.add(isbn);
+        });
+        this.writes.buffer.drain(this.writes::add);
+    }
+
+    private Map<String, Long> genreCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Genre genre : Genre.values()) {
+            long count = this.genres[genre.ordinal()].sum();
+            if (count > 0) {
+                counts.put(genre.name(), count);
+            }
+        }
+        return counts;
+    }
+
+    private Map<String, Long> endpointCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        this.endpoints.forEach((service, methods) ->
+            methods.forEach((method, count) -> counts.put(service + "." + method, count.sum())));
+        return counts;
+    }
+
+    private static final class KeyTracker {
+        private final StripedBuffer buffer = new StripedBuffer();
+        private final CountMinSketch counts = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+        private final SpaceSaving top;
+
+        private KeyTracker(int capacity) {
+            this.top = new SpaceSaving(capacity);
+        }
+
+        private void add(String key) {
+            this.counts.add(key);
+            this.top.add(key);
+        }
+
+        // Both summaries overestimate, so the lower of the two is the tighter bound.
+        private KeyStatistics statistics(int k) {
+            return new KeyStatistics(this.counts.getTotal(), this.top.top(k)
+                .stream()
+                .map(keyCount -> {
+                    long lowerBound = keyCount.getCount() - keyCount.getError();
+                    long count = Math.min(keyCount.getCount(), this.counts.estimate(keyCount.getKey()));
+                    return new KeyCount(keyCount.getKey(), count, count - lowerBound);
+                })
+                .sorted(Comparator.comparingLong(KeyCount::getCount).reversed())
+                .toList());
+        }
+    }
+}
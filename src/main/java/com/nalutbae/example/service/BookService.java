@@ -3,6 +3,7 @@ package com.nalutbae.example.service;
 import com.nalutbae.example.domain.Book;
 import com.nalutbae.example.domain.CustomRuntimeException;
 import com.nalutbae.example.domain.enumeration.Genre;
+import com.nalutbae.example.monitoring.BookServiceEvent;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -16,8 +17,10 @@ import java.util.concurrent.ConcurrentMap;
 @ApplicationScoped
 public class BookService {
     private final ConcurrentMap<String, Book> books = new ConcurrentHashMap<>();
+    private final AccessAnalyticsService accessAnalyticsService;
 
-    public BookService() {
+    public BookService(AccessAnalyticsService accessAnalyticsService) {
+        this.accessAnalyticsService = accessAnalyticsService;
         books.put("9780747532743", new Book("Harry Potter and the Philosopher's Stone", "J.K. Rowling", "9780747532743", Genre.FANTASY, "Bloomsbury Publishing", 1997));
         books.put("9780061120084", new Book("To Kill a Mockingbird", "Harper Lee", "9780061120084", Genre.FICTION, "Harper Perennial Modern Classics", 1960));
         books.put("9780451524935", new Book("1984", "George Orwell", "9780451524935", Genre.SCIENCE_FICTION, "Signet Classics", 1949));
@@ -31,24 +34,46 @@ public class BookService {
     }
 
     public Collection<Book> getBooks() {
-        return this.books.values();
+        // Returns a live view, the iteration happens in the caller, so the event is committed as an instant.
+        BookServiceEvent event = new BookServiceEvent();
+        Collection<Book> result = this.books.values();
+        commit(event, "getBooks", null, result.size());
+        return result;
     }
 
     public Uni<Book> getBook(String bookId) {
-        return Uni.createFrom().item(this.books.get(bookId));
+        BookServiceEvent event = new BookServiceEvent();
+        event.begin();
+        Book book = this.books.get(bookId);
+        commit(event, "getBook", bookId, book == null ? 0 : 1);
+        this.accessAnalyticsService.recordRead(bookId);
+        if (book != null) {
+            this.accessAnalyticsService.recordGenre(book.getGenre());
+        }
+        return Uni.createFrom().item(book);
     }
 
     public Uni<Book> addOrUpdateBook(Book book) {
+        BookServiceEvent event = new BookServiceEvent();
+        event.begin();
         this.books.put(book.getIsbn(), book);
+        commit(event, "addOrUpdateBook", book.getIsbn(), 1);
+        this.accessAnalyticsService.recordWrite(book.getIsbn());
+        this.accessAnalyticsService.recordGenre(book.getGenre());
         return Uni.createFrom().item(book);
     }
 
     public Uni<Void> deleteBook(String bookId) {
-        this.books.remove(bookId);
+        BookServiceEvent event = new BookServiceEvent();
+        event.begin();
+        Book removed = this.books.remove(bookId);
+        commit(event, "deleteBook", bookId, removed == null ? 0 : 1);
         return Uni.createFrom().voidItem(); // or Uni.createFrom().nullItem() if you don't want to return anything.
     }
 
     public Uni<Book> performWorkGeneratingError() {
+        BookServiceEvent event = new BookServiceEvent();
+        commit(event, "performWorkGeneratingError", null, 0);
         throw new CustomRuntimeException("Got some kind of error from somewhere");
     }
 
@@ -56,14 +81,28 @@ public class BookService {
         return Multi.createFrom()
             .ticks()
             .every(Duration.ofSeconds(1))
-            .map(tick ->
-                this.books.values()
+            .map(tick -> {
+                BookServiceEvent event = new BookServiceEvent();
+                event.begin();
+                Book book = this.books.values()
                     .stream()
                     .sorted(Comparator.comparing(Book::getTitle))
                     .toList()
-                    .get(tick.intValue())
-            )
+                    .get(tick.intValue());
+                commit(event, "streamBooks", book.getIsbn(), 1);
+                return book;
+            })
             .select().first(this.books.size()); // or .last() if you want the last item.
     }
 
+    // Fields are only populated when a recording has enabled the event, so this costs nothing otherwise.
+    private static void commit(BookServiceEvent event, String operation, String isbn, int resultSize) {
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.isbn = isbn;
+            event.resultSize = resultSize;
+            event.commit();
+        }
+    }
+
 }
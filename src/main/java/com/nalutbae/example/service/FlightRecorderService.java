@@ -0,0 +1,136 @@
+package com.nalutbae.example.service;
+
+import com.nalutbae.example.domain.CustomRuntimeException;
+import com.nalutbae.example.monitoring.BookServiceEvent;
+import com.nalutbae.example.monitoring.ErrorMappingEvent;
+import com.nalutbae.example.monitoring.RecordingStatus;
+import com.nalutbae.example.monitoring.SerializationEvent;
+import com.nalutbae.example.monitoring.ValidationEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Controls a single on-demand Flight Recorder recording of the running instance.
+ */
+@ApplicationScoped
+public class FlightRecorderService {
+    // Keeps a recording that is forgotten about from filling the disk.
+    private static final Duration MAX_AGE = Duration.ofMinutes(30);
+    // Stock settings record the environment, system properties and command lines, which may hold secrets.
+    private static final List<String> SENSITIVE_EVENTS = List.of(
+        "jdk.InitialEnvironmentVariable",
+        "jdk.InitialSystemProperty",
+        "jdk.JVMInformation",
+        "jdk.SystemProcess",
+        "jdk.ProcessStart"
+    );
+
+    private Recording recording;
+    private String settings;
+
+    public boolean hasSettings(String name) {
+        return Configuration.getConfigurations()
+            .stream()
+            .anyMatch(configuration -> configuration.getName().equals(name));
+    }
+
+    public synchronized Optional<RecordingStatus> getStatus() {
+        return Optional.ofNullable(this.recording).map(this::toStatus);
+    }
+
+    /**
+     * Starts a new recording with the given JFR settings ({@code default} or {@code profile}), discarding the
+     * previous stopped recording if any.
+     *
+     * @return the new recording, or empty if a recording is already running
+     */
+    public synchronized Optional<RecordingStatus> start(String settings) {
+        if (this.recording != null && this.recording.getState() == RecordingState.RUNNING) {
+            return Optional.empty();
+        }
+        Recording newRecording;
+        try {
+            newRecording = new Recording(Configuration.getConfiguration(settings));
+        } catch (IOException | ParseException e) {
+            throw new CustomRuntimeException("Unable to load JFR settings '" + settings + "': " + e.getMessage());
+        }
+        newRecording.setName("book-service");
+        newRecording.setMaxAge(MAX_AGE);
+        newRecording.enable(BookServiceEvent.class);
+        newRecording.enable(SerializationEvent.class);
+        newRecording.enable(ValidationEvent.class);
+        newRecording.enable(ErrorMappingEvent.class);
+        SENSITIVE_EVENTS.forEach(newRecording::disable);
+        newRecording.start();
+
+        close();
+        this.recording = newRecording;
+        this.settings = settings;
+        return Optional.of(toStatus(newRecording));
+    }
+
+    /**
+     * @return the stopped recording, or empty if no recording is running
+     */
+    public synchronized Optional<RecordingStatus> stop() {
+        if (this.recording == null || this.recording.getState() != RecordingState.RUNNING) {
+            return Optional.empty();
+        }
+        this.recording.stop();
+        return Optional.of(toStatus(this.recording));
+    }
+
+    /**
+     * Dumps the current recording, running or stopped, to a temporary file the caller is responsible for deleting.
+     *
+     * @return the dump file, or empty if there is no recording
+     */
+    public synchronized Optional<Path> dump() {
+        if (this.recording == null) {
+            return Optional.empty();
+        }
+        Path file = null;
+        try {
+            file = Files.createTempFile("book-service-", ".jfr");
+            this.recording.dump(file);
+            return Optional.of(file);
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new CustomRuntimeException("Unable to dump JFR recording: " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        if (this.recording != null) {
+            this.recording.close();
+            this.recording = null;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    private RecordingStatus toStatus(Recording recording) {
+        return new RecordingStatus(recording.getId(), recording.getState().name(), this.settings, recording.getStartTime(), recording.getStopTime());
+    }
+}
@@ -0,0 +1,98 @@
+package com.nalutbae.example.grpc;
+
+import com.nalutbae.example.service.BookService;
+import io.grpc.Channel;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.quarkus.grpc.GrpcClient;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@QuarkusTest
+class BooksGrpcServiceFlowControlTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @GrpcClient
+    Books books;
+
+    @GrpcClient("books")
+    Channel channel;
+
+    @InjectMock
+    BookService bookService;
+
+    @Test
+    void upsertBooksPullsOneBookAtATime() {
+        CompletableFuture<com.nalutbae.example.domain.Book> firstStored = new CompletableFuture<>();
+        when(this.bookService.addOrUpdateBook(any()))
+                .thenReturn(Uni.createFrom().completionStage(firstStored))
+                .thenAnswer(invocation -> Uni.createFrom().item(invocation.getArgument(0, com.nalutbae.example.domain.Book.class)));
+
+        List<Book> requests = IntStream.range(0, 20)
+                .mapToObj(i -> Book.newBuilder().setTitle("Book " + i).setIsbn("97800000000" + String.format("%02d", i)).build())
+                .toList();
+        CompletableFuture<List<UpsertBookResponse>> responses = this.books.upsertBooks(Multi.createFrom().iterable(requests))
+                .collect().asList()
+                .subscribeAsCompletionStage();
+
+        // While the first book is not stored, the server must not read the ones the client already sent.
+        verify(this.bookService, after(500).times(1)).addOrUpdateBook(any());
+        assertThat(responses).isNotDone();
+
+        firstStored.complete(new com.nalutbae.example.domain.Book());
+
+        assertThat(responses).succeedsWithin(TIMEOUT)
+                .satisfies(items -> assertThat(items)
+                        .hasSize(20)
+                        .allMatch(UpsertBookResponse::getAccepted));
+        verify(this.bookService, timeout(TIMEOUT.toMillis()).times(20)).addOrUpdateBook(any());
+    }
+
+    @Test
+    void upsertBooksDropsPendingStoreWhenCancelled() {
+        CompletableFuture<Void> storeCancelled = new CompletableFuture<>();
+        when(this.bookService.addOrUpdateBook(any()))
+                .thenReturn(Uni.createFrom().completionStage(new CompletableFuture<com.nalutbae.example.domain.Book>())
+                        .onCancellation().invoke(() -> storeCancelled.complete(null)));
+
+        List<Book> requests = IntStream.range(0, 5)
+                .mapToObj(i -> Book.newBuilder().setTitle("Book " + i).setIsbn("97800000001" + String.format("%02d", i)).build())
+                .toList();
+        ClientCallStreamObserver<Book> upsert = (ClientCallStreamObserver<Book>) BooksGrpc.newStub(this.channel).upsertBooks(new StreamObserver<>() {
+            @Override
+            public void onNext(UpsertBookResponse value) {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+        requests.forEach(upsert::onNext);
+        verify(this.bookService, timeout(TIMEOUT.toMillis()).times(1)).addOrUpdateBook(any());
+
+        upsert.cancel("client gone", null);
+
+        assertThat(storeCancelled).succeedsWithin(TIMEOUT);
+        verify(this.bookService, after(500).times(1)).addOrUpdateBook(any());
+    }
+}
@@ -0,0 +1,142 @@
+package com.nalutbae.example.grpc;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.quarkus.grpc.GrpcClient;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Multi;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+@QuarkusTest
+class BooksGrpcServiceTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @GrpcClient
+    Books books;
+
+    @Test
+    void getBookFound() {
+        Book book = this.books.getBook(GetBookRequest.newBuilder().setIsbn("9780747532743").build())
+                .await().atMost(TIMEOUT);
+
+        assertThat(book)
+                .extracting(Book::getIsbn, Book::getTitle, Book::getGenre)
+                .containsExactly("9780747532743", "Harry Potter and the Philosopher's Stone", Genre.GENRE_FANTASY);
+    }
+
+    @Test
+    void getBookNotFound() {
+        assertThatThrownBy(() -> this.books.getBook(GetBookRequest.newBuilder().setIsbn("9780140283299").build())
+                .await().atMost(TIMEOUT))
+                .isInstanceOf(StatusRuntimeException.class)
+                .extracting(e -> ((StatusRuntimeException) e).getStatus().getCode())
+                .isEqualTo(Status.Code.NOT_FOUND);
+    }
+
+    @Test
+    void getBooks() {
+        GetBooksResponse response = this.books.getBooks(GetBooksRequest.newBuilder()
+                        .addIsbns("9780061120084")
+                        .addIsbns("9780140283299")
+                        .addIsbns("9780451524935")
+                        .build())
+                .await().atMost(TIMEOUT);
+
+        assertThat(response.getBooksList())
+                .extracting(Book::getIsbn)
+                .containsExactly("9780061120084", "9780451524935");
+    }
+
+    @Test
+    void upsertInvalidBook() {
+        assertThatThrownBy(() -> this.books.upsertBook(Book.newBuilder().setIsbn("9780486280615").build())
+                .await().atMost(TIMEOUT))
+                .isInstanceOf(StatusRuntimeException.class)
+                .extracting(e -> ((StatusRuntimeException) e).getStatus().getCode())
+                .isEqualTo(Status.Code.INVALID_ARGUMENT);
+    }
+
+    @Test
+    void upsertBooks() {
+        List<UpsertBookResponse> responses = this.books.upsertBooks(Multi.createFrom().items(
+                        Book.newBuilder().setTitle("The Adventures of Huckleberry Finn").setAuthor("Mark Twain").setIsbn("9780486280615")
+                                .setGenre(Genre.GENRE_FICTION).setPublisher("Dover Publications").setYearPublished(1884).build(),
+                        Book.newBuilder().setIsbn("9780486284736").build(),
+                        Book.newBuilder().setTitle("The Adventures of Tom Sawyer").setAuthor("Mark Twain").build(),
+                        Book.newBuilder().setTitle("The Prince and the Pauper").setAuthor("Mark Twain").setIsbn("9780486411101").build()))
+                .collect().asList()
+                .await().atMost(TIMEOUT);
+
+        assertThat(responses)
+                .extracting(UpsertBookResponse::getIsbn, UpsertBookResponse::getAccepted)
+                .containsExactly(
+                        tuple("9780486280615", true),
+                        tuple("9780486284736", false),
+                        tuple("", false),
+                        tuple("9780486411101", true));
+        assertThat(responses.get(2).getError()).contains("isbn");
+
+        Book stored = this.books.getBook(GetBookRequest.newBuilder().setIsbn("9780486280615").build())
+                .await().atMost(TIMEOUT);
+        assertThat(stored.getGenre()).isEqualTo(Genre.GENRE_FICTION);
+
+        this.books.deleteBook(DeleteBookRequest.newBuilder().setIsbn("9780486280615").build())
+                .await().atMost(TIMEOUT);
+        this.books.deleteBook(DeleteBookRequest.newBuilder().setIsbn("9780486411101").build())
+                .await().atMost(TIMEOUT);
+    }
+
+    @Test
+    void upsertBookWithoutIsbn() {
+        assertThatThrownBy(() -> this.books.upsertBook(Book.newBuilder().setTitle("The Adventures of Tom Sawyer").build())
+                .await().atMost(TIMEOUT))
+                .isInstanceOf(StatusRuntimeException.class)
+                .extracting(e -> ((StatusRuntimeException) e).getStatus().getCode())
+                .isEqualTo(Status.Code.INVALID_ARGUMENT);
+    }
+
+    @Test
+    void listBooks() {
+        List<Book> books = this.books.listBooks(ListBooksRequest.getDefaultInstance())
+                .collect().asList()
+                .await().atMost(TIMEOUT);
+
+        assertThat(books).hasSizeGreaterThanOrEqualTo(10);
+    }
+
+    @Test
+    void callsShowUpInAccessAnalytics() {
+        for (int i = 0; i < 3; i++) {
+            this.books.getBook(GetBookRequest.newBuilder().setIsbn("9780316769488").build())
+                    .await().atMost(TIMEOUT);
+        }
+        this.books.getBooks(GetBooksRequest.newBuilder().addIsbns("9780316769488").build())
+                .await().atMost(TIMEOUT);
+
+        given()
+                .auth().preemptive().basic("admin", "admin")
+                .when().get("/admin/analytics/isbns/9780316769488")
+                .then()
+                .statusCode(200)
+                .body("reads", greaterThanOrEqualTo(4));
+
+        given()
+                .auth().preemptive().basic("admin", "admin")
+                .when().get("/admin/analytics")
+                .then()
+                .statusCode(200)
+                .body(
+                        "endpoints.'book.Books.GetBook'", greaterThanOrEqualTo(3),
+                        "endpoints.'book.Books.GetBooks'", greaterThanOrEqualTo(1)
+                );
+    }
+}
@@ -0,0 +1,90 @@
+package com.nalutbae.example.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedBufferTest {
+
+    @Test
+    void offerAndDrain() {
+        StripedBuffer buffer = new StripedBuffer(1);
+        for (int i = 0; i < 127; i++) {
+            assertThat(buffer.offer("978" + i)).isEqualTo(StripedBuffer.Offer.ACCEPTED);
+        }
+        for (int i = 127; i < 256; i++) {
+            assertThat(buffer.offer("978" + i)).isEqualTo(StripedBuffer.Offer.NEEDS_DRAIN);
+        }
+        assertThat(buffer.offer("full")).isEqualTo(StripedBuffer.Offer.FULL);
+
+        List<String> drained = new ArrayList<>();
+        buffer.drain(drained::add);
+
+        assertThat(drained).hasSize(256).startsWith("9780", "9781");
+        assertThat(buffer.offer("again")).isEqualTo(StripedBuffer.Offer.ACCEPTED);
+    }
+
+    @Test
+    void nullKeyIsRejected() {
+        StripedBuffer buffer = new StripedBuffer(1);
+        assertThatThrownBy(() -> buffer.offer(null)).isInstanceOf(NullPointerException.class);
+        buffer.offer("9780747532743");
+
+        List<String> drained = new ArrayList<>();
+        buffer.drain(drained::add);
+
+        // A null slot would have stopped the drain in front of the key.
+        assertThat(drained).containsExactly("9780747532743");
+    }
+
+    @Test
+    void concurrentProducers() throws Exception {
+        int producers = 8;
+        int keysPerProducer = 100_000;
+        // Fewer stripes than producers so that they race for the same slots.
+        StripedBuffer buffer = new StripedBuffer(2);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<String>>> accepted = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            accepted.add(executor.submit(() -> {
+                List<String> keys = new ArrayList<>();
+                start.await();
+                for (int i = 0; i < keysPerProducer; i++) {
+                    String key = producer + "-" + i;
+                    if (buffer.offer(key) != StripedBuffer.Offer.FULL) {
+                        keys.add(key);
+                    }
+                }
+                return keys;
+            }));
+        }
+
+        List<String> drained = new ArrayList<>();
+        start.countDown();
+        while (!accepted.stream().allMatch(Future::isDone)) {
+            buffer.drain(drained::add);
+        }
+        buffer.drain(drained::add);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        List<String> expected = new ArrayList<>();
+        for (Future<List<String>> keys : accepted) {
+            expected.addAll(keys.get());
+        }
+        // Every accepted key comes out exactly once, and nothing else does.
+        assertThat(expected).isNotEmpty();
+        assertThat(drained).containsExactlyInAnyOrderElementsOf(expected);
+    }
+}
@@ -0,0 +1,73 @@
+package com.nalutbae.example.rest;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+
+@QuarkusTest
+class AccessAnalyticsResourceTest {
+
+    @Test
+    void report() {
+        for (int i = 0; i < 50; i++) {
+            given()
+                    .when().get("/books/9780307277671")
+                    .then()
+                    .statusCode(200);
+        }
+
+        given()
+                .auth().preemptive().basic("admin", "admin")
+                .when().get("/admin/analytics")
+                .then()
+                .log().all()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body(
+                        "reads.total", greaterThanOrEqualTo(50),
+                        "reads.top[0].key", is("9780307277671"),
+                        "reads.top[0].count", greaterThanOrEqualTo(50),
+                        "distinctIsbns", greaterThanOrEqualTo(1),
+                        "genres.MYSTERY", greaterThanOrEqualTo(50),
+                        "endpoints", hasKey("BookResource.getBook"),
+                        "endpoints.'BookResource.getBook'", greaterThanOrEqualTo(50)
+                );
+
+        given()
+                .auth().preemptive().basic("admin", "admin")
+                .when().get("/admin/analytics/isbns/9780307277671")
+                .then()
+                .log().all()
+                .statusCode(200)
+                .body(
+                        "isbn", is("9780307277671"),
+                        "reads", greaterThanOrEqualTo(50)
+                );
+
+        given()
+                .when().get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .body(
+                        containsString("books_access_keys_total{operation=\"getBook\""),
+                        containsString("books_access_keys_total{operation=\"addOrUpdateBook\""),
+                        containsString("books_access_distinct_isbns"),
+                        containsString("books_access_dropped_total")
+                );
+    }
+
+    @Test
+    void requiresAdmin() {
+        given()
+                .when().get("/admin/analytics")
+                .then()
+                .log().all()
+                .statusCode(401);
+    }
+}
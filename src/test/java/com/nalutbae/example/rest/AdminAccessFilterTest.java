@@ -0,0 +1,61 @@
+package com.nalutbae.example.rest;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AdminAccessFilterTest {
+
+    @Test
+    void enabledWithoutPasswordFailsToStart() {
+        assertThatThrownBy(() -> new AdminAccessFilter(true, Optional.empty()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new AdminAccessFilter(true, Optional.of(" ")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void disabledHidesAdminEndpoints() {
+        AdminAccessFilter filter = new AdminAccessFilter(false, Optional.empty());
+
+        assertThat(filter.authenticate(request("/admin/jfr", basic("admin", "admin"))).getStatus()).isEqualTo(404);
+        assertThat(filter.authenticate(request("/books", null))).isNull();
+    }
+
+    @Test
+    void enabledRequiresAdminPassword() {
+        AdminAccessFilter filter = new AdminAccessFilter(true, Optional.of("secret"));
+
+        assertThat(filter.authenticate(request("/admin/analytics", basic("admin", "secret")))).isNull();
+        Response wrongPassword = filter.authenticate(request("/admin/analytics", basic("admin", "admin")));
+        assertThat(wrongPassword.getStatus()).isEqualTo(401);
+        assertThat(wrongPassword.getHeaderString(HttpHeaders.WWW_AUTHENTICATE)).startsWith("Basic");
+        assertThat(filter.authenticate(request("/admin/analytics", "Basic not-base64!")).getStatus()).isEqualTo(401);
+        assertThat(filter.authenticate(request("/admin/analytics", null)).getStatus()).isEqualTo(401);
+        assertThat(filter.authenticate(request("/administration", null))).isNull();
+    }
+
+    private static ContainerRequestContext request(String path, String authorization) {
+        UriInfo uriInfo = mock(UriInfo.class);
+        when(uriInfo.getPath()).thenReturn(path);
+        ContainerRequestContext requestContext = mock(ContainerRequestContext.class);
+        when(requestContext.getUriInfo()).thenReturn(uriInfo);
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn(authorization);
+        return requestContext;
+    }
+
+    private static String basic(String user, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((user + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
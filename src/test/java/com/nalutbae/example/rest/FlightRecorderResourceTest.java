@@ -0,0 +1,153 @@
+package com.nalutbae.example.rest;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@QuarkusTest
+class FlightRecorderResourceTest {
+
+    @Test
+    void startStopAndDump() throws IOException {
+        admin()
+                .when().post("/admin/jfr/start?settings=default")
+                .then()
+                .log().all()
+                .statusCode(201)
+                .contentType(ContentType.JSON)
+                .body(
+                        "state", is("RUNNING"),
+                        "settings", is("default")
+                );
+
+        admin()
+                .when().post("/admin/jfr/start")
+                .then()
+                .log().all()
+                .statusCode(409);
+
+        given()
+                .when().get("/books/9780747532743")
+                .then()
+                .statusCode(200);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body("{\"isbn\":\"9780486280615\",\"author\":\"Mark Twain\"}")
+                .when().post("/books")
+                .then()
+                .statusCode(400);
+
+        given()
+                .when().get("/books/error")
+                .then()
+                .statusCode(500);
+
+        admin()
+                .when().post("/admin/jfr/stop")
+                .then()
+                .log().all()
+                .statusCode(200)
+                .body("state", is("STOPPED"));
+
+        admin()
+                .when().post("/admin/jfr/stop")
+                .then()
+                .log().all()
+                .statusCode(409);
+
+        byte[] dump = admin()
+                .when().get("/admin/jfr/dump")
+                .then()
+                .statusCode(200)
+                .contentType("application/octet-stream")
+                .extract().asByteArray();
+
+        List<RecordedEvent> events = readEvents(dump);
+
+        assertThat(eventsNamed(events, "com.nalutbae.example.BookService"))
+                .anySatisfy(event -> {
+                    assertThat(event.getString("operation")).isEqualTo("getBook");
+                    assertThat(event.getString("isbn")).isEqualTo("9780747532743");
+                    assertThat(event.getInt("resultSize")).isEqualTo(1);
+                });
+        assertThat(eventsNamed(events, "com.nalutbae.example.Serialization"))
+                .anySatisfy(event -> {
+                    assertThat(event.getString("direction")).isEqualTo("WRITE");
+                    assertThat(event.getString("type")).isEqualTo("com.nalutbae.example.domain.Book");
+                })
+                .anySatisfy(event -> {
+                    assertThat(event.getString("direction")).isEqualTo("READ");
+                    assertThat(event.getString("type")).isEqualTo("com.nalutbae.example.domain.Book");
+                });
+        assertThat(eventsNamed(events, "com.nalutbae.example.Validation"))
+                .anySatisfy(event -> {
+                    assertThat(event.getString("method")).isEqualTo("BookResource.addBook");
+                    assertThat(event.getBoolean("valid")).isFalse();
+                });
+        assertThat(eventsNamed(events, "com.nalutbae.example.ErrorMapping"))
+                .anySatisfy(event -> {
+                    assertThat(event.getString("exception")).isEqualTo("com.nalutbae.example.domain.CustomRuntimeException");
+                    assertThat(event.getInt("status")).isEqualTo(500);
+                });
+        assertThat(eventsNamed(events, "jdk.InitialEnvironmentVariable")).isEmpty();
+        assertThat(eventsNamed(events, "jdk.InitialSystemProperty")).isEmpty();
+        assertThat(eventsNamed(events, "jdk.JVMInformation")).isEmpty();
+    }
+
+    @Test
+    void startWithUnknownSettings() {
+        admin()
+                .when().post("/admin/jfr/start?settings=unknown")
+                .then()
+                .log().all()
+                .statusCode(400);
+    }
+
+    @Test
+    void requiresAdmin() {
+        given()
+                .when().get("/admin/jfr/dump")
+                .then()
+                .log().all()
+                .statusCode(401);
+
+        given().auth().preemptive().basic("admin", "wrong")
+                .when().get("/admin/jfr/dump")
+                .then()
+                .log().all()
+                .statusCode(401);
+    }
+
+    private static RequestSpecification admin() {
+        return given().auth().preemptive().basic("admin", "admin");
+    }
+
+    private static List<RecordedEvent> readEvents(byte[] dump) throws IOException {
+        Path file = Files.createTempFile("flight-recorder-resource-test-", ".jfr");
+        try {
+            Files.write(file, dump);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+    }
+}
@@ -0,0 +1,127 @@
+package com.nalutbae.example.service;
+
+import com.nalutbae.example.domain.enumeration.Genre;
+import com.nalutbae.example.monitoring.AccessReport;
+import com.nalutbae.example.monitoring.KeyCount;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessAnalyticsServiceTest {
+    // No drainer thread runs outside of the container, the tests drain before a stripe fills up.
+    AccessAnalyticsService accessAnalyticsService = new AccessAnalyticsService(Duration.ofMinutes(1), 3);
+
+    @Test
+    void topReads() {
+        for (int i = 0; i < 10_000; i++) {
+            if (i % 50 == 0) {
+                this.accessAnalyticsService.drain();
+            }
+            this.accessAnalyticsService.recordRead("978" + i);
+            if (i % 4 == 0) {
+                this.accessAnalyticsService.recordRead("9780747532743");
+            }
+            if (i % 5 == 0) {
+                this.accessAnalyticsService.recordRead("9780061120084");
+            }
+        }
+
+        AccessReport report = this.accessAnalyticsService.getReport();
+
+        assertThat(report.getReads().getTotal()).isEqualTo(14_500);
+        assertThat(report.getReads().getTop())
+                .hasSize(3)
+                .extracting(KeyCount::getKey)
+                .startsWith("9780747532743", "9780061120084");
+        assertThat(report.getReads().getTop().get(0))
+                .satisfies(top -> assertThat(top.getCount()).isBetween(2_500L, 2_500L + top.getError()));
+        assertThat(report.getWrites().getTotal()).isZero();
+        assertThat(report.getDropped()).isZero();
+    }
+
+    @Test
+    void distinctIsbns() {
+        for (int i = 0; i < 50_000; i++) {
+            if (i % 200 == 0) {
+                this.accessAnalyticsService.drain();
+            }
+            this.accessAnalyticsService.recordRead("978" + (i % 20_000));
+        }
+
+        assertThat(this.accessAnalyticsService.getDistinctIsbns())
+                .isBetween(19_000L, 21_000L);
+    }
+
+    @Test
+    void isbnAccess() {
+        this.accessAnalyticsService.recordRead("9780345339683");
+        this.accessAnalyticsService.recordRead("9780345339683");
+        this.accessAnalyticsService.recordWrite("9780345339683");
+        this.accessAnalyticsService.recordWrite(null);
+
+        assertThat(this.accessAnalyticsService.getIsbnAccess("9780345339683"))
+                .satisfies(access -> {
+                    assertThat(access.getReads()).isEqualTo(2);
+                    assertThat(access.getWrites()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void genresAndEndpoints() {
+        this.accessAnalyticsService.recordGenre(Genre.FANTASY);
+        this.accessAnalyticsService.recordGenre(Genre.FANTASY);
+        this.accessAnalyticsService.recordGenre(Genre.FICTION);
+        this.accessAnalyticsService.recordGenre(null);
+        this.accessAnalyticsService.recordEndpoint("BookResource", "getBook");
+
+        AccessReport report = this.accessAnalyticsService.getReport();
+
+        assertThat(report.getGenres())
+                .containsExactlyInAnyOrderEntriesOf(Map.of("FANTASY", 2L, "FICTION", 1L));
+        assertThat(report.getEndpoints())
+                .containsExactlyEntriesOf(Map.of("BookResource.getBook", 1L));
+    }
+
+    @Test
+    void fullStripeDropsWithoutDrainingOnCaller() {
+        for (int i = 0; i < 1_000; i++) {
+            this.accessAnalyticsService.recordRead("9780747532743");
+        }
+        long dropped = this.accessAnalyticsService.getDroppedCount();
+
+        assertThat(dropped).isPositive();
+        assertThat(this.accessAnalyticsService.getReadCount()).isEqualTo(1_000 - dropped);
+    }
+
+    @Test
+    void halfFullStripeWakesDrainerUp() throws InterruptedException {
+        this.accessAnalyticsService.start();
+        try {
+            // Well within the first scheduled drain, one second after start: only the high-water mark drains.
+            for (int batch = 0; batch < 5; batch++) {
+                for (int i = 0; i < 200; i++) {
+                    this.accessAnalyticsService.recordRead("9780747532743");
+                }
+                Thread.sleep(50);
+            }
+
+            assertThat(this.accessAnalyticsService.getDroppedCount()).isZero();
+            assertThat(this.accessAnalyticsService.getReadCount()).isEqualTo(1_000);
+        } finally {
+            this.accessAnalyticsService.stop();
+        }
+    }
+
+    @Test
+    void nullIsbnIsIgnored() {
+        this.accessAnalyticsService.recordRead(null);
+        this.accessAnalyticsService.recordWrite(null);
+        this.accessAnalyticsService.recordRead("9780747532743");
+
+        assertThat(this.accessAnalyticsService.getReadCount()).isEqualTo(1);
+        assertThat(this.accessAnalyticsService.getWriteCount()).isZero();
+    }
+}
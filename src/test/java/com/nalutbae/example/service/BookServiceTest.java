@@ -6,13 +6,14 @@ import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
 
 class BookServiceTest {
-    BookService bookService = new BookService();
+    BookService bookService = new BookService(new AccessAnalyticsService(Duration.ofMinutes(1), 10));
 
     @Test
     void getBooks() {